@@ -0,0 +1,166 @@
+package com.tmax.tibero.hibernate.bench;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tmax.tibero.hibernate.engine.jdbc.batch.internal.TiberoInsertAllBatch;
+
+public class InsertBatchBenchmark {
+    private static final String TABLE = "bench_insert_batch";
+    private static final String INTO_CLAUSE = "into " + TABLE + " (id, name, created) values (?, ?, ?)";
+    private static final int PARAMETER_COUNT = 3;
+    private static final int[] BATCH_SIZES = {15, 25, 50, 100, 200};
+    private static final Method SET_LONG;
+    private static final Method SET_STRING;
+    private static final Method SET_TIMESTAMP;
+
+    static {
+        try {
+            SET_LONG = PreparedStatement.class.getMethod("setLong", int.class, long.class);
+            SET_STRING = PreparedStatement.class.getMethod("setString", int.class, String.class);
+            SET_TIMESTAMP = PreparedStatement.class.getMethod("setTimestamp", int.class, Timestamp.class);
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: InsertBatchBenchmark <jdbc-url> <user> <password> [rows] [rows-per-flush]");
+            System.exit(1);
+        }
+        int rows = args.length > 3 ? Integer.parseInt(args[3]) : 100000;
+        int flushRows = args.length > 4 ? Integer.parseInt(args[4]) : 1000;
+        Connection connection = DriverManager.getConnection(args[0], args[1], args[2]);
+        try {
+            connection.setAutoCommit(false);
+            createTable(connection);
+            for (int batchSize : BATCH_SIZES) {
+                run(connection, "jdbc batch", batchSize, rows, flushRows, false);
+                run(connection, "insert all", batchSize, rows, flushRows, true);
+            }
+            dropTable(connection);
+        } finally {
+            connection.close();
+        }
+    }
+
+    private static void run(Connection connection, String mode, int batchSize, int rows, int flushRows, boolean insertAll) throws Exception {
+        truncate(connection);
+        long start = System.nanoTime();
+        for (int first = 0; first < rows; first += flushRows) {
+            int count = Math.min(flushRows, rows - first);
+            if (insertAll) {
+                flushInsertAll(connection, batchSize, first, count);
+            } else {
+                flushBatched(connection, batchSize, first, count);
+            }
+            connection.commit();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("%-10s batch=%4d rows=%d flush=%d %10.0f rows/s%n", mode, batchSize, rows, flushRows, rows * 1e9 / elapsed);
+    }
+
+    // one Hibernate flush with plain JDBC batching: a statement per flush, executeBatch every batchSize rows
+    private static void flushBatched(Connection connection, int batchSize, int first, int count) throws SQLException {
+        PreparedStatement ps = connection.prepareStatement("insert " + INTO_CLAUSE);
+        try {
+            for (int i = 0; i < count; i++) {
+                ps.setLong(1, first + i);
+                ps.setString(2, "row-" + (first + i));
+                ps.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+                ps.addBatch();
+                if ((i + 1) % batchSize == 0) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        } finally {
+            ps.close();
+        }
+    }
+
+    // one Hibernate flush through TiberoInsertAllBatch: bindings are recorded per row and replayed
+    // reflectively into insert all statements cached per flush, split the same way as the shipped batch
+    private static void flushInsertAll(Connection connection, int batchSize, int first, int count) throws Exception {
+        Map<Integer, PreparedStatement> statements = new HashMap<Integer, PreparedStatement>();
+        List<Object[][]> pending = new ArrayList<Object[][]>();
+        try {
+            for (int i = 0; i < count; i++) {
+                pending.add(new Object[][]{
+                        {SET_LONG, Integer.valueOf(1), Long.valueOf(first + i)},
+                        {SET_STRING, Integer.valueOf(2), "row-" + (first + i)},
+                        {SET_TIMESTAMP, Integer.valueOf(3), new Timestamp(System.currentTimeMillis())}});
+                if (pending.size() == batchSize) {
+                    executeInsertAll(connection, statements, pending, batchSize);
+                }
+            }
+            executeInsertAll(connection, statements, pending, batchSize);
+        } finally {
+            for (PreparedStatement statement : statements.values()) {
+                statement.close();
+            }
+        }
+    }
+
+    private static void executeInsertAll(Connection connection, Map<Integer, PreparedStatement> statements,
+                                         List<Object[][]> pending, int maxRowsPerStatement) throws Exception {
+        for (int start = 0, end; start < pending.size(); start = end) {
+            int statementRows = TiberoInsertAllBatch.getStatementRows(pending.size() - start, maxRowsPerStatement);
+            end = start + statementRows;
+            PreparedStatement statement = statements.get(Integer.valueOf(statementRows));
+            if (statement == null) {
+                statement = connection.prepareStatement(TiberoInsertAllBatch.getInsertAllString(INTO_CLAUSE, statementRows));
+                statements.put(Integer.valueOf(statementRows), statement);
+            }
+            statement.clearParameters();
+            for (int row = start; row < end; row++) {
+                for (Object[] binding : pending.get(row)) {
+                    int index = ((Integer) binding[1]).intValue() + (row - start) * PARAMETER_COUNT;
+                    try {
+                        ((Method) binding[0]).invoke(statement, Integer.valueOf(index), binding[2]);
+                    } catch (InvocationTargetException e) {
+                        throw (Exception) e.getCause();
+                    }
+                }
+            }
+            statement.executeUpdate();
+        }
+        pending.clear();
+    }
+
+    private static void createTable(Connection connection) throws SQLException {
+        dropTable(connection);
+        execute(connection, "create table " + TABLE + " (id number(19,0) primary key, name varchar2(64 char), created timestamp)");
+    }
+
+    private static void dropTable(Connection connection) throws SQLException {
+        try {
+            execute(connection, "drop table " + TABLE + " purge");
+        } catch (SQLException ignore) {
+        }
+    }
+
+    private static void truncate(Connection connection) throws SQLException {
+        execute(connection, "truncate table " + TABLE);
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        Statement statement = connection.createStatement();
+        try {
+            statement.execute(sql);
+        } finally {
+            statement.close();
+        }
+    }
+}
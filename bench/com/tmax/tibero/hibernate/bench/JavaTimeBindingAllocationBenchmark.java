@@ -0,0 +1,82 @@
+package com.tmax.tibero.hibernate.bench;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import com.tmax.tibero.hibernate.type.descriptor.sql.TiberoTimestampTypeDescriptor;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.LocalDateTimeJavaDescriptor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+import org.hibernate.type.descriptor.sql.TimestampTypeDescriptor;
+
+public class JavaTimeBindingAllocationBenchmark {
+    private static final int WARMUP_ROWS = 200000;
+    private static final LocalDateTime VALUE = LocalDateTime.of(2024, 1, 15, 10, 30, 15, 123456789);
+    private static final Timestamp TIMESTAMP = Timestamp.valueOf(VALUE);
+
+    public static void main(String[] args) throws SQLException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        PreparedStatement statement = stub(PreparedStatement.class);
+        ResultSet resultSet = stub(ResultSet.class);
+        WrapperOptions options = stub(WrapperOptions.class);
+        for (SqlTypeDescriptor descriptor : new SqlTypeDescriptor[]{TimestampTypeDescriptor.INSTANCE, TiberoTimestampTypeDescriptor.INSTANCE}) {
+            run(descriptor, statement, resultSet, options, WARMUP_ROWS);
+            long before = allocatedBytes();
+            run(descriptor, statement, resultSet, options, rows);
+            long after = allocatedBytes();
+            System.out.printf("%-32s %8.1f bytes/row (bind + extract)%n", descriptor.getClass().getSimpleName(), (after - before) / (double) rows);
+        }
+    }
+
+    // looks up the binder and extractor per value, as AbstractStandardBasicType.nullSafeSet/nullSafeGet do
+    private static void run(SqlTypeDescriptor descriptor, PreparedStatement statement, ResultSet resultSet,
+                            WrapperOptions options, int rows) throws SQLException {
+        for (int i = 0; i < rows; i++) {
+            ValueBinder<LocalDateTime> binder = descriptor.getBinder(LocalDateTimeJavaDescriptor.INSTANCE);
+            binder.bind(statement, VALUE, 1, options);
+            ValueExtractor<LocalDateTime> extractor = descriptor.getExtractor(LocalDateTimeJavaDescriptor.INSTANCE);
+            if (extractor.extract(resultSet, "created", options) == null) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, new InvocationHandler() {
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                String name = method.getName();
+                if ("getTimestamp".equals(name)) {
+                    return TIMESTAMP;
+                }
+                if ("getObject".equals(name) && args != null && args.length == 2 && args[1] == LocalDateTime.class) {
+                    return VALUE;
+                }
+                Class<?> returnType = method.getReturnType();
+                if (returnType == boolean.class) {
+                    return Boolean.FALSE;
+                }
+                if (returnType == int.class) {
+                    return Integer.valueOf(0);
+                }
+                if (returnType == long.class) {
+                    return Long.valueOf(0L);
+                }
+                return null;
+            }
+        });
+    }
+}
@@ -10,8 +10,13 @@ import java.util.regex.Pattern;
 
 import com.tmax.tibero.hibernate.dialect.identity.TiberoIdentityColumnSupport;
 import com.tmax.tibero.hibernate.tool.schema.extract.internal.SequenceInformationExtractorTiberoDatabaseImpl;
+import com.tmax.tibero.hibernate.tool.schema.internal.TiberoIndexExporter;
+import com.tmax.tibero.hibernate.tool.schema.internal.TiberoTableExporter;
+import com.tmax.tibero.hibernate.type.descriptor.sql.TiberoDateTypeDescriptor;
+import com.tmax.tibero.hibernate.type.descriptor.sql.TiberoTimestampTypeDescriptor;
 import org.hibernate.JDBCException;
 import org.hibernate.QueryTimeoutException;
+import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.function.NoArgSQLFunction;
 import org.hibernate.dialect.function.NvlFunction;
@@ -22,6 +27,8 @@ import org.hibernate.dialect.identity.IdentityColumnSupport;
 import org.hibernate.dialect.pagination.AbstractLimitHandler;
 import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.LimitHelper;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
 import org.hibernate.exception.ConstraintViolationException;
@@ -35,10 +42,14 @@ import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.hql.spi.id.global.GlobalTemporaryTableBulkIdStrategy;
 import org.hibernate.hql.spi.id.local.AfterUseAction;
 import org.hibernate.internal.util.JdbcExceptionHelper;
+import org.hibernate.mapping.Index;
+import org.hibernate.mapping.Table;
 import org.hibernate.procedure.internal.StandardCallableStatementSupport;
 import org.hibernate.procedure.spi.CallableStatementSupport;
+import org.hibernate.service.ServiceRegistry;
 import org.hibernate.sql.*;
 import org.hibernate.tool.schema.extract.spi.SequenceInformationExtractor;
+import org.hibernate.tool.schema.spi.Exporter;
 import org.hibernate.type.StandardBasicTypes;
 import org.hibernate.type.descriptor.sql.BitTypeDescriptor;
 import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
@@ -93,6 +104,10 @@ public class TiberoDialect extends Dialect {
         }
     };
     private static final int PARAM_LIST_SIZE_LIMIT = 1000;
+    public static final String NATIVE_JAVA_TIME = "hibernate.tibero.jdbc.native_java_time";
+    private final TiberoTableExporter tableExporter = new TiberoTableExporter(this);
+    private final TiberoIndexExporter indexExporter = new TiberoIndexExporter(this);
+    private boolean nativeJavaTime;
 
     public TiberoDialect() {
         registerCharacterTypeMappings();
@@ -240,8 +255,23 @@ public class TiberoDialect extends Dialect {
         getDefaultProperties().setProperty("hibernate.jdbc.use_get_generated_keys", "true");
     }
 
+    public void contributeTypes(TypeContributions typeContributions, ServiceRegistry serviceRegistry) {
+        super.contributeTypes(typeContributions, serviceRegistry);
+        nativeJavaTime = serviceRegistry.getService(ConfigurationService.class)
+                .getSetting(NATIVE_JAVA_TIME, StandardConverters.BOOLEAN, Boolean.FALSE).booleanValue();
+    }
+
     protected SqlTypeDescriptor getSqlTypeDescriptorOverride(int sqlCode) {
-        return sqlCode == 16 ? BitTypeDescriptor.INSTANCE : super.getSqlTypeDescriptorOverride(sqlCode);
+        switch (sqlCode) {
+            case 16:
+                return BitTypeDescriptor.INSTANCE;
+            case 91:
+                return nativeJavaTime ? TiberoDateTypeDescriptor.INSTANCE : super.getSqlTypeDescriptorOverride(sqlCode);
+            case 93:
+                return nativeJavaTime ? TiberoTimestampTypeDescriptor.INSTANCE : super.getSqlTypeDescriptorOverride(sqlCode);
+            default:
+                return super.getSqlTypeDescriptorOverride(sqlCode);
+        }
     }
 
     public JoinFragment createOuterJoinFragment() {
@@ -348,6 +378,18 @@ public class TiberoDialect extends Dialect {
                         Integer.valueOf(incrementSize)});
     }
 
+    public String getChunkedDeleteString(String tableName, String predicate) {
+        return "delete from " + tableName + " where (" + predicate + ") and rownum <= ?";
+    }
+
+    public String getChunkedUpdateString(String tableName, String setClause, String predicate) {
+        return "update " + tableName + " set " + setClause + " where (" + predicate + ") and rownum <= ?";
+    }
+
+    public String getChunkedRemainingRowsString(String tableName, String predicate) {
+        return "select 1 from " + tableName + " where (" + predicate + ") and rownum <= 1";
+    }
+
     public String getDropSequenceString(String sequenceName) {
         return "drop sequence " + sequenceName;
     }
@@ -620,6 +662,14 @@ public class TiberoDialect extends Dialect {
         return "SELECT SYS_CONTEXT('USERENV', 'CURRENT_SCHEMA') FROM DUAL";
     }
 
+    public Exporter<Table> getTableExporter() {
+        return tableExporter;
+    }
+
+    public Exporter<Index> getIndexExporter() {
+        return indexExporter;
+    }
+
     public boolean supportsPartitionBy() {
         return true;
     }
@@ -0,0 +1,23 @@
+package com.tmax.tibero.hibernate.dialect.bulk;
+
+import org.hibernate.HibernateException;
+
+public class ChunkedBulkOperationException extends HibernateException {
+    private static final long serialVersionUID = 1L;
+
+    private final long rowCount;
+
+    public ChunkedBulkOperationException(String message, long rowCount) {
+        super(message + " (" + rowCount + " rows processed)");
+        this.rowCount = rowCount;
+    }
+
+    public ChunkedBulkOperationException(String message, long rowCount, Throwable cause) {
+        super(message + " (" + rowCount + " rows processed)", cause);
+        this.rowCount = rowCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+}
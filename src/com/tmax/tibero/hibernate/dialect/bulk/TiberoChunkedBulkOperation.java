@@ -0,0 +1,197 @@
+package com.tmax.tibero.hibernate.dialect.bulk;
+
+import com.tmax.tibero.hibernate.dialect.TiberoDialect;
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.query.NativeQuery;
+
+public class TiberoChunkedBulkOperation {
+    public static final int DEFAULT_CHUNK_SIZE = 10000;
+
+    private final String tableName;
+    private final String sql;
+    private final Object[] parameters;
+    private final String remainingRowsSql;
+    private final Object[] remainingRowsParameters;
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private int maxChunks;
+    private long pauseMillis;
+    private ProgressListener progressListener;
+
+    protected TiberoChunkedBulkOperation(String tableName, String sql, Object[] parameters, String remainingRowsSql, Object[] remainingRowsParameters) {
+        this.tableName = tableName;
+        this.sql = toOrdinalParameters(sql);
+        this.parameters = parameters;
+        this.remainingRowsSql = toOrdinalParameters(remainingRowsSql);
+        this.remainingRowsParameters = remainingRowsParameters;
+    }
+
+    public static TiberoChunkedBulkOperation delete(TiberoDialect dialect, String tableName, String predicate, Object... parameters) {
+        Object[] predicateParameters = parameters == null ? new Object[0] : parameters;
+        return new TiberoChunkedBulkOperation(tableName,
+                dialect.getChunkedDeleteString(tableName, predicate), predicateParameters,
+                dialect.getChunkedRemainingRowsString(tableName, predicate), predicateParameters);
+    }
+
+    /**
+     * The predicate must exclude rows that were already updated, otherwise every chunk matches the same rows again.
+     * Parameters bind the {@code ?} placeholders of the set clause first, then those of the predicate.
+     */
+    public static TiberoChunkedBulkOperation update(TiberoDialect dialect, String tableName, String setClause, String predicate, Object... parameters) {
+        Object[] allParameters = parameters == null ? new Object[0] : parameters;
+        int setClauseParameterCount = countParameters(setClause);
+        if (setClauseParameterCount > allParameters.length) {
+            throw new IllegalArgumentException("Missing parameters for set clause: " + setClause);
+        }
+        Object[] predicateParameters = new Object[allParameters.length - setClauseParameterCount];
+        System.arraycopy(allParameters, setClauseParameterCount, predicateParameters, 0, predicateParameters.length);
+        return new TiberoChunkedBulkOperation(tableName,
+                dialect.getChunkedUpdateString(tableName, setClause, predicate), allParameters,
+                dialect.getChunkedRemainingRowsString(tableName, predicate), predicateParameters);
+    }
+
+    protected static int countParameters(String sql) {
+        int count = 0;
+        boolean inLiteral = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            } else if (c == '?' && !inLiteral) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    protected static String toOrdinalParameters(String sql) {
+        StringBuilder buffer = new StringBuilder(sql.length() + 16);
+        int position = 0;
+        boolean inLiteral = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            buffer.append(c);
+            if (c == '\'') {
+                inLiteral = !inLiteral;
+            } else if (c == '?' && !inLiteral) {
+                buffer.append(++position);
+            }
+        }
+        return buffer.toString();
+    }
+
+    public TiberoChunkedBulkOperation setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public TiberoChunkedBulkOperation setMaxChunks(int maxChunks) {
+        if (maxChunks <= 0) {
+            throw new IllegalArgumentException("Max chunks must be positive: " + maxChunks);
+        }
+        this.maxChunks = maxChunks;
+        return this;
+    }
+
+    public TiberoChunkedBulkOperation setPauseMillis(long pauseMillis) {
+        if (pauseMillis < 0) {
+            throw new IllegalArgumentException("Pause must not be negative: " + pauseMillis);
+        }
+        this.pauseMillis = pauseMillis;
+        return this;
+    }
+
+    public TiberoChunkedBulkOperation setProgressListener(ProgressListener progressListener) {
+        this.progressListener = progressListener;
+        return this;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long execute(Session session) {
+        if (session.getTransaction().isActive()) {
+            throw new HibernateException("Chunked bulk operation commits per chunk and cannot run inside an active transaction");
+        }
+        long totalRows = 0;
+        int chunk = 0;
+        while (true) {
+            int rows;
+            try {
+                rows = executeChunk(session);
+            } catch (RuntimeException e) {
+                throw new ChunkedBulkOperationException("Chunked bulk operation on " + tableName + " failed at chunk " + (chunk + 1), totalRows, e);
+            }
+            totalRows += rows;
+            chunk++;
+            if (progressListener != null) {
+                progressListener.chunkCompleted(chunk, rows, totalRows);
+            }
+            if (rows < chunkSize) {
+                return totalRows;
+            }
+            if (maxChunks > 0 && chunk >= maxChunks) {
+                if (!hasRemainingRows(session)) {
+                    return totalRows;
+                }
+                throw new ChunkedBulkOperationException("Chunked bulk operation on " + tableName + " reached the limit of " + maxChunks + " chunks with rows remaining", totalRows);
+            }
+            if (pauseMillis > 0) {
+                try {
+                    Thread.sleep(pauseMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new ChunkedBulkOperationException("Chunked bulk operation on " + tableName + " was interrupted", totalRows, e);
+                }
+            }
+        }
+    }
+
+    protected int executeChunk(Session session) {
+        Transaction transaction = session.beginTransaction();
+        try {
+            NativeQuery<?> query = session.createNativeQuery(sql).addSynchronizedQuerySpace(tableName);
+            bindParameters(query, parameters);
+            query.setParameter(parameters.length + 1, Integer.valueOf(chunkSize));
+            int rows = query.executeUpdate();
+            transaction.commit();
+            return rows;
+        } catch (RuntimeException e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    protected boolean hasRemainingRows(Session session) {
+        Transaction transaction = session.beginTransaction();
+        try {
+            NativeQuery<?> query = session.createNativeQuery(remainingRowsSql);
+            bindParameters(query, remainingRowsParameters);
+            boolean remaining = !query.list().isEmpty();
+            transaction.commit();
+            return remaining;
+        } catch (RuntimeException e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw e;
+        }
+    }
+
+    private static void bindParameters(NativeQuery<?> query, Object[] parameters) {
+        for (int i = 0; i < parameters.length; i++) {
+            query.setParameter(i + 1, parameters[i]);
+        }
+    }
+
+    public interface ProgressListener {
+        void chunkCompleted(int chunk, int chunkRows, long totalRows);
+    }
+}
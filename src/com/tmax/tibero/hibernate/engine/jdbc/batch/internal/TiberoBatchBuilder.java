@@ -0,0 +1,46 @@
+package com.tmax.tibero.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Map;
+
+import org.hibernate.cfg.Environment;
+import org.hibernate.engine.jdbc.batch.internal.BatchBuilderImpl;
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+public class TiberoBatchBuilder extends BatchBuilderImpl {
+    private static final long serialVersionUID = 1L;
+
+    public static final String INSERT_ALL_MAX_ROWS = "hibernate.tibero.jdbc.insert_all_max_rows";
+
+    private int jdbcBatchSize = 1;
+    private int insertAllMaxRows;
+
+    public TiberoBatchBuilder() {
+    }
+
+    @SuppressWarnings("rawtypes")
+    public void configure(Map configurationValues) {
+        super.configure(configurationValues);
+        jdbcBatchSize = ConfigurationHelper.getInt(Environment.STATEMENT_BATCH_SIZE, configurationValues, jdbcBatchSize);
+        insertAllMaxRows = ConfigurationHelper.getInt(INSERT_ALL_MAX_ROWS, configurationValues, 0);
+        if (insertAllMaxRows < 0) {
+            throw new IllegalArgumentException(INSERT_ALL_MAX_ROWS + " must not be negative: " + insertAllMaxRows);
+        }
+    }
+
+    public void setJdbcBatchSize(int jdbcBatchSize) {
+        super.setJdbcBatchSize(jdbcBatchSize);
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
+        Integer sessionJdbcBatchSize = jdbcCoordinator.getJdbcSessionOwner().getJdbcBatchSize();
+        int batchSize = sessionJdbcBatchSize == null ? jdbcBatchSize : sessionJdbcBatchSize.intValue();
+        if (batchSize > 1) {
+            return new TiberoInsertAllBatch(key, jdbcCoordinator, batchSize, insertAllMaxRows > 0 ? insertAllMaxRows : batchSize);
+        }
+        return super.buildBatch(key, jdbcCoordinator);
+    }
+}
@@ -0,0 +1,201 @@
+package com.tmax.tibero.hibernate.engine.jdbc.batch.internal;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.engine.jdbc.batch.internal.BatchingBatch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+
+public class TiberoInsertAllBatch extends BatchingBatch {
+    private static final Pattern INSERT_PATTERN = Pattern.compile("^\\s*(?:/\\*.*?\\*/\\s*)?insert\\s+(into\\s+.*)$", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+    private final JdbcCoordinator jdbcCoordinator;
+    private final int maxRowsPerStatement;
+
+    public TiberoInsertAllBatch(BatchKey key, JdbcCoordinator jdbcCoordinator, int batchSize, int maxRowsPerStatement) {
+        super(key, jdbcCoordinator, batchSize);
+        this.jdbcCoordinator = jdbcCoordinator;
+        this.maxRowsPerStatement = maxRowsPerStatement;
+    }
+
+    public PreparedStatement getBatchStatement(String sql, boolean callable) {
+        String intoClause = callable ? null : extractIntoClause(sql);
+        if (intoClause != null && !getStatements().containsKey(sql)) {
+            getStatements().put(sql, (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new InsertAllStatementHandler(intoClause)));
+        }
+        return super.getBatchStatement(sql, callable);
+    }
+
+    protected String extractIntoClause(String sql) {
+        Matcher matcher = INSERT_PATTERN.matcher(sql);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String intoClause = matcher.group(1);
+        String lowerCaseIntoClause = intoClause.toLowerCase(Locale.ROOT);
+        if (lowerCaseIntoClause.contains("nextval") || lowerCaseIntoClause.contains(" select ")) {
+            return null;
+        }
+        return intoClause;
+    }
+
+    public static int getStatementRows(int remainingRows, int maxRowsPerStatement) {
+        return remainingRows >= maxRowsPerStatement ? maxRowsPerStatement : Integer.highestOneBit(remainingRows);
+    }
+
+    public static String getInsertAllString(String intoClause, int rows) {
+        StringBuilder buffer = new StringBuilder(16 + (intoClause.length() + 1) * rows);
+        buffer.append("insert all");
+        for (int i = 0; i < rows; i++) {
+            buffer.append(' ').append(intoClause);
+        }
+        buffer.append(" select 1 from dual");
+        return buffer.toString();
+    }
+
+    private static class BoundParameter {
+        private final Method method;
+        private final Object[] args;
+
+        private BoundParameter(Method method, Object[] args) {
+            this.method = method;
+            this.args = args;
+        }
+    }
+
+    private class InsertAllStatementHandler implements InvocationHandler {
+        private final String intoClause;
+        private final List<List<BoundParameter>> rows = new ArrayList<List<BoundParameter>>();
+        private List<BoundParameter> currentRow = new ArrayList<BoundParameter>();
+        private final Map<Integer, PreparedStatement> insertAllStatements = new HashMap<Integer, PreparedStatement>();
+        private int parameterCount;
+        private boolean closed;
+
+        private InsertAllStatementHandler(String intoClause) {
+            this.intoClause = intoClause;
+        }
+
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer) {
+                parameterCount = Math.max(parameterCount, ((Integer) args[0]).intValue());
+                currentRow.add(new BoundParameter(method, args));
+                return null;
+            }
+            if ("addBatch".equals(name) && args == null) {
+                rows.add(currentRow);
+                currentRow = new ArrayList<BoundParameter>();
+                return null;
+            }
+            if ("executeBatch".equals(name)) {
+                return executeBatch();
+            }
+            if ("clearBatch".equals(name)) {
+                rows.clear();
+                return null;
+            }
+            if ("clearParameters".equals(name)) {
+                currentRow.clear();
+                return null;
+            }
+            if ("close".equals(name)) {
+                rows.clear();
+                releaseInsertAllStatements();
+                closed = true;
+                return null;
+            }
+            if ("isClosed".equals(name)) {
+                return Boolean.valueOf(closed);
+            }
+            if ("getMaxRows".equals(name) || "getQueryTimeout".equals(name)) {
+                return Integer.valueOf(0);
+            }
+            if ("setMaxRows".equals(name) || "setQueryTimeout".equals(name)) {
+                return null;
+            }
+            if ("hashCode".equals(name)) {
+                return Integer.valueOf(System.identityHashCode(proxy));
+            }
+            if ("equals".equals(name)) {
+                return Boolean.valueOf(proxy == args[0]);
+            }
+            if ("toString".equals(name)) {
+                return "insert all " + intoClause;
+            }
+            throw new SQLException("Unsupported operation on INSERT ALL batch statement: " + name);
+        }
+
+        private int[] executeBatch() throws SQLException {
+            int[] rowCounts = new int[rows.size()];
+            try {
+                for (int start = 0, end; start < rows.size(); start = end) {
+                    end = start + getStatementRows(rows.size() - start, maxRowsPerStatement);
+                    int inserted = executeInsertAll(rows.subList(start, end));
+                    if (inserted != end - start) {
+                        throw new SQLException("Unexpected row count from INSERT ALL; expected " + (end - start) + " but was " + inserted);
+                    }
+                    Arrays.fill(rowCounts, start, end, 1);
+                }
+            } finally {
+                rows.clear();
+            }
+            return rowCounts;
+        }
+
+        private int executeInsertAll(List<List<BoundParameter>> chunk) throws SQLException {
+            PreparedStatement statement = getInsertAllStatement(chunk.size());
+            statement.clearParameters();
+            int offset = 0;
+            for (List<BoundParameter> row : chunk) {
+                for (BoundParameter parameter : row) {
+                    Object[] args = parameter.args.clone();
+                    args[0] = Integer.valueOf(((Integer) args[0]).intValue() + offset);
+                    try {
+                        parameter.method.invoke(statement, args);
+                    } catch (InvocationTargetException e) {
+                        if (e.getCause() instanceof SQLException) {
+                            throw (SQLException) e.getCause();
+                        }
+                        throw new SQLException("Could not bind INSERT ALL parameter", e.getCause());
+                    } catch (IllegalAccessException e) {
+                        throw new SQLException("Could not bind INSERT ALL parameter", e);
+                    }
+                }
+                offset += parameterCount;
+            }
+            return jdbcCoordinator.getResultSetReturn().executeUpdate(statement);
+        }
+
+        private PreparedStatement getInsertAllStatement(int statementRows) {
+            PreparedStatement statement = insertAllStatements.get(Integer.valueOf(statementRows));
+            if (statement == null) {
+                statement = jdbcCoordinator.getStatementPreparer().prepareStatement(getInsertAllString(intoClause, statementRows));
+                insertAllStatements.put(Integer.valueOf(statementRows), statement);
+            }
+            return statement;
+        }
+
+        private void releaseInsertAllStatements() {
+            for (PreparedStatement statement : insertAllStatements.values()) {
+                jdbcCoordinator.getLogicalConnection().getResourceRegistry().release(statement);
+            }
+            insertAllStatements.clear();
+        }
+    }
+}
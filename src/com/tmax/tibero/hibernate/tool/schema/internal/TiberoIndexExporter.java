@@ -0,0 +1,20 @@
+package com.tmax.tibero.hibernate.tool.schema.internal;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.mapping.Index;
+import org.hibernate.tool.schema.internal.StandardIndexExporter;
+
+public class TiberoIndexExporter extends StandardIndexExporter {
+    public TiberoIndexExporter(Dialect dialect) {
+        super(dialect);
+    }
+
+    public String[] getSqlCreateStrings(Index index, Metadata metadata) {
+        String[] sqlStrings = super.getSqlCreateStrings(index, metadata);
+        if (sqlStrings.length > 0 && TiberoTableOptions.forTable(index.getTable(), metadata).useLocalIndexes()) {
+            sqlStrings[0] = sqlStrings[0] + " local";
+        }
+        return sqlStrings;
+    }
+}
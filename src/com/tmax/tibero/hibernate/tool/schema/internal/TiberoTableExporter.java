@@ -0,0 +1,21 @@
+package com.tmax.tibero.hibernate.tool.schema.internal;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.mapping.Table;
+import org.hibernate.tool.schema.internal.StandardTableExporter;
+
+public class TiberoTableExporter extends StandardTableExporter {
+    public TiberoTableExporter(Dialect dialect) {
+        super(dialect);
+    }
+
+    public String[] getSqlCreateStrings(Table table, Metadata metadata) {
+        String[] sqlStrings = super.getSqlCreateStrings(table, metadata);
+        String tableOptions = TiberoTableOptions.forTable(table, metadata).getTableOptionsString();
+        if (sqlStrings.length > 0 && !tableOptions.isEmpty()) {
+            sqlStrings[0] = sqlStrings[0] + tableOptions;
+        }
+        return sqlStrings;
+    }
+}
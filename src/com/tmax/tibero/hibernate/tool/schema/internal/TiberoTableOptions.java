@@ -0,0 +1,154 @@
+package com.tmax.tibero.hibernate.tool.schema.internal;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.QualifiedTableName;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.mapping.Table;
+
+public class TiberoTableOptions {
+    public static final String PREFIX = "hibernate.tibero.table.";
+    public static final String ORGANIZATION = "organization";
+    public static final String COMPRESS = "compress";
+    public static final String PARTITION_BY = "partition_by";
+    public static final String PARTITION_COLUMN = "partition_column";
+    public static final String PARTITION_INTERVAL = "partition_interval";
+    public static final String PARTITIONS = "partitions";
+    public static final String LOCAL_INDEXES = "local_indexes";
+
+    private static final Pattern PARTITION_COUNT_PATTERN = Pattern.compile("\\d+");
+    private static final Set<String> OPTION_NAMES = new HashSet<String>(Arrays.asList(
+            ORGANIZATION, COMPRESS, PARTITION_BY, PARTITION_COLUMN, PARTITION_INTERVAL, PARTITIONS, LOCAL_INDEXES));
+
+    private final Table table;
+    private final String tableName;
+    private final Map<?, ?> settings;
+
+    private TiberoTableOptions(Table table, Map<?, ?> settings) {
+        this.table = table;
+        this.tableName = getTableKey(table);
+        this.settings = settings;
+        validateOptionNames();
+    }
+
+    public static TiberoTableOptions forTable(Table table, Metadata metadata) {
+        Map<?, ?> settings = ((MetadataImplementor) metadata).getMetadataBuildingOptions()
+                .getServiceRegistry()
+                .getService(ConfigurationService.class)
+                .getSettings();
+        return new TiberoTableOptions(table, settings);
+    }
+
+    protected static String getTableKey(Table table) {
+        QualifiedTableName qualifiedName = table.getQualifiedTableName();
+        String name = qualifiedName.getTableName().getText().toLowerCase(Locale.ROOT);
+        Identifier schema = qualifiedName.getSchemaName();
+        return schema == null ? name : schema.getText().toLowerCase(Locale.ROOT) + "." + name;
+    }
+
+    protected void validateOptionNames() {
+        String tablePrefix = PREFIX + tableName + ".";
+        for (Object key : settings.keySet()) {
+            String setting = String.valueOf(key);
+            if (setting.startsWith(tablePrefix)) {
+                String option = setting.substring(tablePrefix.length());
+                if (option.indexOf('.') < 0 && !OPTION_NAMES.contains(option)) {
+                    throw new HibernateException("Unknown table option '" + option + "' in setting " + setting);
+                }
+            }
+        }
+    }
+
+    protected String getOption(String name) {
+        Object value = settings.get(PREFIX + tableName + "." + name);
+        if (value == null) {
+            return null;
+        }
+        String option = value.toString().trim();
+        return option.isEmpty() ? null : option;
+    }
+
+    protected boolean getBooleanOption(String name) {
+        return Boolean.parseBoolean(getOption(name));
+    }
+
+    public boolean isIndexOrganized() {
+        return "index".equalsIgnoreCase(getOption(ORGANIZATION));
+    }
+
+    public boolean isCompressed() {
+        return getBooleanOption(COMPRESS);
+    }
+
+    public boolean isPartitioned() {
+        return getOption(PARTITION_BY) != null;
+    }
+
+    public boolean useLocalIndexes() {
+        return isPartitioned() && getBooleanOption(LOCAL_INDEXES);
+    }
+
+    public String getTableOptionsString() {
+        StringBuilder buffer = new StringBuilder();
+        String organization = getOption(ORGANIZATION);
+        if (organization != null) {
+            if (!isIndexOrganized() && !"heap".equalsIgnoreCase(organization)) {
+                throw new HibernateException("Unsupported organization '" + organization + "' for table " + tableName);
+            }
+            if (isIndexOrganized() && !table.hasPrimaryKey()) {
+                throw new HibernateException("Index organized table " + tableName + " requires a primary key");
+            }
+            buffer.append(" organization ").append(organization.toLowerCase(Locale.ROOT));
+        }
+        if (isCompressed()) {
+            buffer.append(" compress");
+        }
+        if (isPartitioned()) {
+            buffer.append(getPartitionString());
+        }
+        return buffer.toString();
+    }
+
+    protected String getPartitionString() {
+        String partitionBy = getOption(PARTITION_BY).toLowerCase(Locale.ROOT);
+        String column = getOption(PARTITION_COLUMN);
+        String interval = getOption(PARTITION_INTERVAL);
+        String partitions = getOption(PARTITIONS);
+        if (column == null) {
+            throw new HibernateException("Missing " + PARTITION_COLUMN + " for partitioned table " + tableName);
+        }
+        StringBuilder buffer = new StringBuilder(" partition by ").append(partitionBy).append(" (").append(column).append(")");
+        if ("range".equals(partitionBy)) {
+            if (partitions == null) {
+                throw new HibernateException("Missing " + PARTITIONS + " definition for range partitioned table " + tableName);
+            }
+            if (interval != null) {
+                buffer.append(" interval (").append(interval).append(")");
+            }
+            buffer.append(" (").append(partitions).append(")");
+        } else if ("hash".equals(partitionBy)) {
+            if (interval != null) {
+                throw new HibernateException("Interval partitioning requires range partitioning for table " + tableName);
+            }
+            if (partitions != null) {
+                if (PARTITION_COUNT_PATTERN.matcher(partitions).matches()) {
+                    buffer.append(" partitions ").append(partitions);
+                } else {
+                    buffer.append(" (").append(partitions).append(")");
+                }
+            }
+        } else {
+            throw new HibernateException("Unsupported partitioning '" + partitionBy + "' for table " + tableName);
+        }
+        return buffer.toString();
+    }
+}
@@ -0,0 +1,142 @@
+package com.tmax.tibero.hibernate.type.descriptor.sql;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BasicBinder;
+import org.hibernate.type.descriptor.sql.BasicExtractor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+
+public abstract class AbstractTiberoJavaTimeTypeDescriptor<T> implements SqlTypeDescriptor {
+    private static final long serialVersionUID = 1L;
+
+    private final SqlTypeDescriptor standardDescriptor;
+    private final Class<T> javaTimeType;
+    private transient volatile JavaTimeBinder<?> binder;
+    private transient volatile JavaTimeExtractor<?> extractor;
+
+    protected AbstractTiberoJavaTimeTypeDescriptor(SqlTypeDescriptor standardDescriptor, Class<T> javaTimeType) {
+        this.standardDescriptor = standardDescriptor;
+        this.javaTimeType = javaTimeType;
+    }
+
+    public int getSqlType() {
+        return standardDescriptor.getSqlType();
+    }
+
+    public boolean canBeRemapped() {
+        return standardDescriptor.canBeRemapped();
+    }
+
+    protected boolean useNativeAccess(WrapperOptions options) {
+        return options.getJdbcTimeZone() == null;
+    }
+
+    @SuppressWarnings("deprecation")
+    protected boolean isJavaTimeType(JavaTypeDescriptor<?> javaTypeDescriptor) {
+        return javaTypeDescriptor.getJavaTypeClass() == javaTimeType;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <X> ValueBinder<X> getBinder(JavaTypeDescriptor<X> javaTypeDescriptor) {
+        if (!isJavaTimeType(javaTypeDescriptor)) {
+            return standardDescriptor.getBinder(javaTypeDescriptor);
+        }
+        JavaTimeBinder<?> cached = binder;
+        if (cached == null || cached.getJavaDescriptor() != javaTypeDescriptor) {
+            cached = new JavaTimeBinder<X>(javaTypeDescriptor);
+            binder = cached;
+        }
+        return (ValueBinder<X>) cached;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <X> ValueExtractor<X> getExtractor(JavaTypeDescriptor<X> javaTypeDescriptor) {
+        if (!isJavaTimeType(javaTypeDescriptor)) {
+            return standardDescriptor.getExtractor(javaTypeDescriptor);
+        }
+        JavaTimeExtractor<?> cached = extractor;
+        if (cached == null || cached.getJavaDescriptor() != javaTypeDescriptor) {
+            cached = new JavaTimeExtractor<X>(javaTypeDescriptor);
+            extractor = cached;
+        }
+        return (ValueExtractor<X>) cached;
+    }
+
+    private class JavaTimeBinder<X> extends BasicBinder<X> {
+        private volatile ValueBinder<X> standardBinder;
+
+        private JavaTimeBinder(JavaTypeDescriptor<X> javaTypeDescriptor) {
+            super(javaTypeDescriptor, AbstractTiberoJavaTimeTypeDescriptor.this);
+        }
+
+        private ValueBinder<X> getStandardBinder() {
+            ValueBinder<X> result = standardBinder;
+            if (result == null) {
+                result = standardDescriptor.getBinder(getJavaDescriptor());
+                standardBinder = result;
+            }
+            return result;
+        }
+
+        protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
+            if (useNativeAccess(options)) {
+                st.setObject(index, value, getSqlType());
+            } else {
+                getStandardBinder().bind(st, value, index, options);
+            }
+        }
+
+        protected void doBind(CallableStatement st, X value, String name, WrapperOptions options) throws SQLException {
+            if (useNativeAccess(options)) {
+                st.setObject(name, value, getSqlType());
+            } else {
+                getStandardBinder().bind(st, value, name, options);
+            }
+        }
+    }
+
+    private class JavaTimeExtractor<X> extends BasicExtractor<X> {
+        private volatile ValueExtractor<X> standardExtractor;
+
+        private JavaTimeExtractor(JavaTypeDescriptor<X> javaTypeDescriptor) {
+            super(javaTypeDescriptor, AbstractTiberoJavaTimeTypeDescriptor.this);
+        }
+
+        private ValueExtractor<X> getStandardExtractor() {
+            ValueExtractor<X> result = standardExtractor;
+            if (result == null) {
+                result = standardDescriptor.getExtractor(getJavaDescriptor());
+                standardExtractor = result;
+            }
+            return result;
+        }
+
+        protected X doExtract(ResultSet rs, String name, WrapperOptions options) throws SQLException {
+            if (useNativeAccess(options)) {
+                return getJavaDescriptor().wrap(rs.getObject(name, javaTimeType), options);
+            }
+            return getStandardExtractor().extract(rs, name, options);
+        }
+
+        protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
+            if (useNativeAccess(options)) {
+                return getJavaDescriptor().wrap(statement.getObject(index, javaTimeType), options);
+            }
+            return getStandardExtractor().extract(statement, index, options);
+        }
+
+        protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
+            if (useNativeAccess(options)) {
+                return getJavaDescriptor().wrap(statement.getObject(name, javaTimeType), options);
+            }
+            return getStandardExtractor().extract(statement, new String[]{name}, options);
+        }
+    }
+}
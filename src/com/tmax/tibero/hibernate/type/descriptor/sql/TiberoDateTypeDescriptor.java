@@ -0,0 +1,15 @@
+package com.tmax.tibero.hibernate.type.descriptor.sql;
+
+import java.time.LocalDate;
+
+import org.hibernate.type.descriptor.sql.DateTypeDescriptor;
+
+public class TiberoDateTypeDescriptor extends AbstractTiberoJavaTimeTypeDescriptor<LocalDate> {
+    private static final long serialVersionUID = 1L;
+
+    public static final TiberoDateTypeDescriptor INSTANCE = new TiberoDateTypeDescriptor();
+
+    public TiberoDateTypeDescriptor() {
+        super(DateTypeDescriptor.INSTANCE, LocalDate.class);
+    }
+}
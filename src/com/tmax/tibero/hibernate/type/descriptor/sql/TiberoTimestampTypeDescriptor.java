@@ -0,0 +1,15 @@
+package com.tmax.tibero.hibernate.type.descriptor.sql;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.type.descriptor.sql.TimestampTypeDescriptor;
+
+public class TiberoTimestampTypeDescriptor extends AbstractTiberoJavaTimeTypeDescriptor<LocalDateTime> {
+    private static final long serialVersionUID = 1L;
+
+    public static final TiberoTimestampTypeDescriptor INSTANCE = new TiberoTimestampTypeDescriptor();
+
+    public TiberoTimestampTypeDescriptor() {
+        super(TimestampTypeDescriptor.INSTANCE, LocalDateTime.class);
+    }
+}